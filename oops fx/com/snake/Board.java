@@ -0,0 +1,275 @@
+package com.snake;
+
+import java.util.Random;
+
+/**
+ * Headless two snake board used for bot matches. Both snakes move at the same time and
+ * share the food; a snake dies when it leaves the board or runs into a body, and running
+ * head first into each other kills both. As in the on-screen game, bodies are checked
+ * before they move, so running into a tail, even your own, is fatal.
+ *
+ * Nothing is allocated while the game runs, so thousands of matches can be simulated quickly.
+ */
+public class Board {
+    public static final int PLAYERS = 2;
+
+    private final int width;
+    private final int height;
+    private final long seed;
+    private final Random random;
+
+    // Each body is a ring buffer of tile indexes (y * width + x), head at heads[i]
+    private final int[][] bodies;
+    private final int[] heads;
+    private final int[] lengths;
+    private final int[] directions;
+    private final int[] scores;
+    private final boolean[] alive;
+    private final int[] occupied; // Number of segments on each tile
+
+    // Scratch space for step()
+    private final int[] nextHeads = new int[PLAYERS];
+    private final boolean[] crashed = new boolean[PLAYERS];
+    private final View[] views = new View[PLAYERS];
+
+    private int food = -1;
+    private int ticks;
+
+    public Board(int width, int height, long seed) {
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+        this.random = new Random(seed);
+
+        bodies = new int[PLAYERS][width * height];
+        heads = new int[PLAYERS];
+        lengths = new int[PLAYERS];
+        directions = new int[PLAYERS];
+        scores = new int[PLAYERS];
+        alive = new boolean[PLAYERS];
+        occupied = new int[width * height];
+
+        // Start on opposite sides facing each other
+        place(0, width / 4, height / 2, 1);
+        place(1, width - 1 - width / 4, height / 2, 3);
+        spawnFood();
+
+        for (int i = 0; i < PLAYERS; i++) {
+            views[i] = new View(i);
+        }
+    }
+
+    private void place(int player, int x, int y, int direction) {
+        int tile = y * width + x;
+        bodies[player][0] = tile;
+        heads[player] = 0;
+        lengths[player] = 1;
+        directions[player] = direction;
+        alive[player] = true;
+        occupied[tile]++;
+    }
+
+    /**
+     * Turns the given player, following the same rule as the keyboard.
+     */
+    public void turn(int player, int direction) {
+        directions[player] = SnakeController.turn(directions[player], direction);
+    }
+
+    /**
+     * Kills a player without moving, used when its controller misbehaves.
+     */
+    public void forfeit(int player) {
+        alive[player] = false;
+    }
+
+    /**
+     * Moves every living snake one tile.
+     */
+    public void step() {
+        ticks++;
+
+        // Work out where every head goes
+        for (int i = 0; i < PLAYERS; i++) {
+            if (!alive[i]) continue;
+            int x = headX(i);
+            int y = headY(i);
+            switch (directions[i]) {
+                case 0: y--; break; // Up
+                case 1: x++; break; // Right
+                case 2: y++; break; // Down
+                case 3: x--; break; // Left
+            }
+            nextHeads[i] = x < 0 || x >= width || y < 0 || y >= height ? -1 : y * width + x;
+        }
+
+        // Check collisions against the bodies as they are now, tails included, like
+        // SnakeGame.checkCollision does, and before anyone dies so both are judged the same
+        for (int i = 0; i < PLAYERS; i++) {
+            crashed[i] = false;
+            if (!alive[i]) continue;
+            if (nextHeads[i] < 0 || occupied[nextHeads[i]] > 0) {
+                crashed[i] = true;
+                continue;
+            }
+            for (int j = 0; j < PLAYERS; j++) {
+                if (j != i && alive[j] && nextHeads[j] == nextHeads[i]) {
+                    crashed[i] = true;
+                }
+            }
+        }
+
+        // Crashed snakes stay where they were, the rest free their tail unless they are eating
+        for (int i = 0; i < PLAYERS; i++) {
+            if (crashed[i]) {
+                alive[i] = false;
+            } else if (alive[i] && nextHeads[i] != food) {
+                int tail = (heads[i] - lengths[i] + 1 + bodies[i].length) % bodies[i].length;
+                occupied[bodies[i][tail]]--;
+                lengths[i]--;
+            }
+        }
+
+        boolean eaten = false;
+        for (int i = 0; i < PLAYERS; i++) {
+            if (!alive[i]) continue;
+            heads[i] = (heads[i] + 1) % bodies[i].length;
+            bodies[i][heads[i]] = nextHeads[i];
+            lengths[i]++;
+            occupied[nextHeads[i]]++;
+            if (nextHeads[i] == food) {
+                scores[i] += 10;
+                eaten = true;
+            }
+        }
+        if (eaten) {
+            spawnFood();
+        }
+    }
+
+    private void spawnFood() {
+        // Random tries first, then a scan so a nearly full board still finds a free tile
+        for (int attempt = 0; attempt < 64; attempt++) {
+            int tile = random.nextInt(width * height);
+            if (occupied[tile] == 0) {
+                food = tile;
+                return;
+            }
+        }
+        int start = random.nextInt(width * height);
+        for (int k = 0; k < width * height; k++) {
+            int tile = (start + k) % (width * height);
+            if (occupied[tile] == 0) {
+                food = tile;
+                return;
+            }
+        }
+        food = -1;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public boolean isAlive(int player) {
+        return alive[player];
+    }
+
+    public int getScore(int player) {
+        return scores[player];
+    }
+
+    public int getLength(int player) {
+        return lengths[player];
+    }
+
+    public int getAliveCount() {
+        int count = 0;
+        for (int i = 0; i < PLAYERS; i++) {
+            if (alive[i]) count++;
+        }
+        return count;
+    }
+
+    /**
+     * The board as seen by one player. The same object is returned every time.
+     */
+    public BoardView viewFor(int player) {
+        return views[player];
+    }
+
+    private int headX(int player) {
+        return bodies[player][heads[player]] % width;
+    }
+
+    private int headY(int player) {
+        return bodies[player][heads[player]] / width;
+    }
+
+    private class View implements BoardView {
+        private final int player;
+
+        View(int player) {
+            this.player = player;
+        }
+
+        @Override
+        public int getWidth() {
+            return width;
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public int getFoodX() {
+            return food < 0 ? -1 : food % width;
+        }
+
+        @Override
+        public int getFoodY() {
+            return food < 0 ? -1 : food / width;
+        }
+
+        @Override
+        public int getHeadX() {
+            return headX(player);
+        }
+
+        @Override
+        public int getHeadY() {
+            return headY(player);
+        }
+
+        @Override
+        public int getDirection() {
+            return directions[player];
+        }
+
+        @Override
+        public int getLength() {
+            return lengths[player];
+        }
+
+        @Override
+        public boolean isBlocked(int x, int y) {
+            if (x < 0 || x >= width || y < 0 || y >= height) return true;
+            return occupied[y * width + x] > 0;
+        }
+
+        @Override
+        public long getSeed() {
+            return seed;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.snake;
+
+/**
+ * What a {@link SnakeController} gets to see each tick, from the point of view of the snake it steers.
+ * Coordinates are in tiles, (0, 0) is the top left corner.
+ */
+public interface BoardView {
+    int getWidth();
+
+    int getHeight();
+
+    // -1 when there is no food on the board
+    int getFoodX();
+
+    int getFoodY();
+
+    int getHeadX();
+
+    int getHeadY();
+
+    // 0=up, 1=right, 2=down, 3=left
+    int getDirection();
+
+    int getLength();
+
+    // True for tiles outside the board and tiles covered by any snake
+    boolean isBlocked(int x, int y);
+
+    // Fixed for the whole game, seed any randomness from it so tournament matches can be replayed
+    long getSeed();
+}
@@ -0,0 +1,199 @@
+package com.snake;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Captures the game board once per tick and streams raw frames to a file or named pipe.
+ *
+ * Every frame is width * height pixels of 4 bytes each in BGRA order (premultiplied),
+ * with no header, so the output can be fed straight into ffmpeg, e.g.
+ * {@code ffmpeg -f rawvideo -pix_fmt bgra -s 600x450 -r 10 -i frames.raw out.mp4}.
+ *
+ * The snapshot happens on the JavaFX thread; the copy into a pooled buffer is a plain
+ * memory copy and all writing happens on a background thread. If the writer falls behind
+ * and no pooled buffer is free the frame is dropped instead of blocking the game.
+ */
+public class FrameRecorder implements AutoCloseable {
+    private static final int POOL_SIZE = 8;
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+    private static final ByteBuffer END_OF_STREAM = ByteBuffer.allocate(0);
+
+    private final int width;
+    private final int height;
+    private final WritableByteChannel out;
+
+    // Reused for every snapshot
+    private final WritableImage image;
+    private final SnapshotParameters params;
+
+    // Frame buffers cycle between these two queues, ArrayBlockingQueue so nothing is allocated per frame
+    private final ArrayBlockingQueue<ByteBuffer> freeFrames = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final ArrayBlockingQueue<ByteBuffer> pendingFrames = new ArrayBlockingQueue<>(POOL_SIZE + 1);
+    private final IntBuffer[] frameViews = new IntBuffer[POOL_SIZE];
+    private final ByteBuffer[] frameBuffers = new ByteBuffer[POOL_SIZE];
+
+    private final Thread writer;
+    private volatile boolean failed;
+    private boolean closed;
+    private long framesCaptured;
+    private long framesDropped;
+
+    public FrameRecorder(int width, int height, Path target) throws IOException {
+        this(width, height, FileChannel.open(target,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    public FrameRecorder(int width, int height, WritableByteChannel out) {
+        this.width = width;
+        this.height = height;
+        this.out = out;
+
+        // A plain image, snapshots cannot render into one backed by a PixelBuffer
+        image = new WritableImage(width, height);
+
+        params = new SnapshotParameters();
+        params.setFill(Color.BLACK);
+        params.setViewport(new Rectangle2D(0, 0, width, height));
+
+        // Little endian so each ARGB int lands on disk as B, G, R, A
+        for (int i = 0; i < POOL_SIZE; i++) {
+            frameBuffers[i] = ByteBuffer.allocateDirect(width * height * 4).order(ByteOrder.LITTLE_ENDIAN);
+            frameViews[i] = frameBuffers[i].asIntBuffer();
+            freeFrames.add(frameBuffers[i]);
+        }
+
+        writer = new Thread(this::writeFrames, "snake-frame-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Snapshots the given node into the next free frame. Must be called on the JavaFX thread.
+     */
+    public void capture(Node source) {
+        if (closed || failed) return;
+
+        ByteBuffer frame = freeFrames.poll();
+        if (frame == null) {
+            framesDropped++;
+            return;
+        }
+
+        source.snapshot(params, image);
+
+        // Read straight into the pooled buffer, no intermediate copy
+        IntBuffer view = frameViews[indexOf(frame)];
+        view.clear();
+        image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(), view, width);
+        frame.clear();
+
+        pendingFrames.offer(frame);
+        framesCaptured++;
+    }
+
+    private int indexOf(ByteBuffer frame) {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            if (frameBuffers[i] == frame) return i;
+        }
+        throw new IllegalArgumentException("Frame is not from this recorder's pool");
+    }
+
+    private void writeFrames() {
+        try {
+            while (true) {
+                ByteBuffer frame = pendingFrames.take();
+                if (frame == END_OF_STREAM) break;
+
+                if (!failed) {
+                    try {
+                        while (frame.hasRemaining()) {
+                            out.write(frame);
+                        }
+                    } catch (IOException e) {
+                        System.err.println("Error writing video frame: " + e.getMessage());
+                        e.printStackTrace();
+                        failed = true; // Keep draining so close() still returns
+                    }
+                }
+                freeFrames.offer(frame);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Closing here gives a pipe reader its end of file as soon as the last frame is out
+            try {
+                out.close();
+            } catch (IOException e) {
+                System.err.println("Error closing frame output: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * True when the next {@link #capture} will not be dropped, so a loop running faster than
+     * real time can wait for the writer instead of losing frames.
+     */
+    public boolean hasFreeFrame() {
+        return !freeFrames.isEmpty();
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public long getFramesCaptured() {
+        return framesCaptured;
+    }
+
+    public long getFramesDropped() {
+        return framesDropped;
+    }
+
+    /**
+     * Stops capturing and lets the writer close the output once every captured frame is
+     * written. Returns straight away, so it is safe to call from the game.
+     */
+    public void finish() {
+        if (closed) return;
+        closed = true;
+        pendingFrames.offer(END_OF_STREAM); // Always fits, the queue has room for every frame plus this
+    }
+
+    /**
+     * Like {@link #finish}, but waits a bounded time for the writer. If the output is still
+     * stuck after that, e.g. a pipe nobody reads, the remaining frames are abandoned.
+     */
+    @Override
+    public void close() throws IOException {
+        finish();
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            System.err.println("Frame output is not keeping up, closing it with frames still pending");
+            writer.interrupt();
+            out.close(); // Unblocks a write stuck on the channel
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.snake;
+
+/**
+ * Heads straight for the food, taking the first safe move that gets closer.
+ */
+public class GreedyController implements SnakeController {
+    private static final int[] DX = {0, 1, 0, -1};
+    private static final int[] DY = {-1, 0, 1, 0};
+
+    @Override
+    public int nextDirection(BoardView board) {
+        int x = board.getHeadX();
+        int y = board.getHeadY();
+        int best = board.getDirection();
+        int bestDistance = Integer.MAX_VALUE;
+
+        for (int d = 0; d < 4; d++) {
+            if (SnakeController.turn(board.getDirection(), d) != d) continue;
+            int nx = x + DX[d];
+            int ny = y + DY[d];
+            if (board.isBlocked(nx, ny)) continue;
+
+            int distance = board.getFoodX() < 0 ? 0
+                    : Math.abs(board.getFoodX() - nx) + Math.abs(board.getFoodY() - ny);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = d;
+            }
+        }
+        return best;
+    }
+}
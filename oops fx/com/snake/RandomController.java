@@ -0,0 +1,29 @@
+package com.snake;
+
+import java.util.Random;
+
+/**
+ * Wanders around at random, only avoiding moves that die straight away.
+ */
+public class RandomController implements SnakeController {
+    private static final int[] DX = {0, 1, 0, -1};
+    private static final int[] DY = {-1, 0, 1, 0};
+
+    private Random random;
+
+    @Override
+    public int nextDirection(BoardView board) {
+        if (random == null) {
+            random = new Random(board.getSeed()); // Same game, same moves
+        }
+        int start = random.nextInt(4);
+        for (int k = 0; k < 4; k++) {
+            int d = (start + k) % 4;
+            if (SnakeController.turn(board.getDirection(), d) != d) continue;
+            if (!board.isBlocked(board.getHeadX() + DX[d], board.getHeadY() + DY[d])) {
+                return d;
+            }
+        }
+        return board.getDirection(); // Nowhere safe to go
+    }
+}
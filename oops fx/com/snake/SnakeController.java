@@ -0,0 +1,40 @@
+package com.snake;
+
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Steers a snake instead of the keyboard. Implementations are found with {@link ServiceLoader},
+ * so a bot only needs a public no-arg constructor and a line with its class name in
+ * META-INF/services/com.snake.SnakeController on the classpath.
+ *
+ * A new instance is created for every game, so controllers may keep state between ticks.
+ */
+public interface SnakeController {
+
+    /**
+     * Returns the direction to move in next, 0=up, 1=right, 2=down, 3=left.
+     * Anything else, or turning straight back, keeps the current direction.
+     */
+    int nextDirection(BoardView board);
+
+    static ServiceLoader<SnakeController> loader() {
+        return ServiceLoader.load(SnakeController.class);
+    }
+
+    /**
+     * Finds a controller by simple or fully qualified class name.
+     */
+    static Optional<ServiceLoader.Provider<SnakeController>> find(String name) {
+        return loader().stream()
+                .filter(p -> p.type().getSimpleName().equals(name) || p.type().getName().equals(name))
+                .findFirst();
+    }
+
+    // Shared by the game and the tournament so bots and players follow the same turning rule
+    static int turn(int current, int requested) {
+        if (requested < 0 || requested > 3) return current;
+        if ((requested + 2) % 4 == current) return current;
+        return requested;
+    }
+}
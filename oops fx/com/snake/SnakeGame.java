@@ -20,6 +20,7 @@ import javafx.animation.SequentialTransition;
 import javafx.animation.TranslateTransition;
 import javafx.animation.RotateTransition;
 import javafx.animation.ParallelTransition;
+import javafx.animation.PauseTransition;
 import javafx.scene.text.Font;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.Image;
@@ -27,9 +28,19 @@ import javafx.scene.image.ImageView;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class SnakeGame extends Application {
     // Constants
@@ -37,6 +48,7 @@ public class SnakeGame extends Application {
     private static final int HEIGHT = 15;
     private static final int TILE_SIZE = 30;
     private static final long GAME_SPEED = 150_000_000; // Lower = faster
+    private static final long CONTROLLER_BUDGET = GAME_SPEED / 2; // Longest a bot may think per tick
 
     // Game state
     private List<Rectangle> snake;
@@ -62,12 +74,75 @@ public class SnakeGame extends Application {
     private MediaPlayer gameOverMusic;
     private MediaPlayer eatSound;
 
+    // Frame capture, enabled with -Dsnake.record=<file or named pipe>
+    private FrameRecorder frameRecorder;
+    private boolean recordFast; // -Dsnake.record.fast=true steps without the timer
+
+    // Bot steering, enabled with -Dsnake.controller=<class name>
+    private ServiceLoader.Provider<SnakeController> controllerProvider;
+    private SnakeController controller;
+    private ExecutorService controllerThread;
+    private long gameSeed;
+    private GameSnapshot gameView = new GameSnapshot();
+
     @Override
     public void start(Stage primaryStage) {
         root = new BorderPane();
         String css = getClass().getResource("style.css").toExternalForm(); // Load the CSS file
         root.getStylesheets().add(css); // Apply the CSS to the root pane
-        setupStartScreen(primaryStage);
+        setupFrameRecorder();
+        setupController();
+
+        if (recordFast) {
+            // Nobody is there to press Start in a recorded run, go straight into the game
+            loadCustomFont();
+            initializeGame();
+            setupGameUI(primaryStage);
+            startGameLoop();
+        } else {
+            setupStartScreen(primaryStage);
+        }
+    }
+
+    private void setupFrameRecorder() {
+        String target = System.getProperty("snake.record");
+        if (target == null || target.isEmpty()) return;
+        try {
+            frameRecorder = new FrameRecorder(WIDTH * TILE_SIZE, HEIGHT * TILE_SIZE, Paths.get(target));
+            recordFast = Boolean.getBoolean("snake.record.fast");
+            System.out.println("Recording frames to: " + target + (recordFast ? " (fast)" : ""));
+        } catch (IOException e) {
+            System.err.println("Error opening frame output: " + e.getMessage());
+            e.printStackTrace();
+            frameRecorder = null; // Game still runs without recording
+        }
+    }
+
+    private void setupController() {
+        String name = System.getProperty("snake.controller");
+        if (name == null || name.isEmpty()) return;
+        controllerProvider = SnakeController.find(name).orElse(null);
+        if (controllerProvider != null) {
+            System.out.println("Using controller: " + controllerProvider.type().getName());
+        } else {
+            System.err.println("Controller not found: " + name + ", falling back to keyboard");
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (controllerThread != null) {
+            controllerThread.shutdownNow();
+        }
+        if (frameRecorder != null) {
+            try {
+                frameRecorder.close();
+                System.out.println("Recorded " + frameRecorder.getFramesCaptured() + " frames ("
+                        + frameRecorder.getFramesDropped() + " dropped)");
+            } catch (IOException e) {
+                System.err.println("Error closing frame output: " + e.getMessage());
+            }
+        }
     }
 
     private void setupStartScreen(Stage primaryStage) {
@@ -201,6 +276,16 @@ public class SnakeGame extends Application {
         growing = false;
         score = 0;
         gameOver = false;
+        controller = null;
+        gameSeed = new Random().nextLong();
+        if (controllerProvider != null) {
+            try {
+                controller = controllerProvider.get(); // Fresh bot every game
+            } catch (RuntimeException | Error e) {
+                System.err.println("Error creating controller: " + e.getMessage());
+                e.printStackTrace(); // Keyboard still works
+            }
+        }
         gameArea = new Pane();
         gameArea.setPrefSize(WIDTH * TILE_SIZE, HEIGHT * TILE_SIZE);
         
@@ -273,17 +358,23 @@ public class SnakeGame extends Application {
 
     private void setupKeyHandling(Scene scene) {
         scene.setOnKeyPressed(event -> {
-            if (gameOver) return;
+            // A controller steers from updateGame instead, until it fails
+            if (gameOver || controller != null) return;
             switch (event.getCode()) {
-                case UP:    if (direction != 2) direction = 0; break;
-                case RIGHT: if (direction != 3) direction = 1; break;
-                case DOWN:  if (direction != 0) direction = 2; break;
-                case LEFT:  if (direction != 1) direction = 3; break;
+                case UP:    direction = SnakeController.turn(direction, 0); break;
+                case RIGHT: direction = SnakeController.turn(direction, 1); break;
+                case DOWN:  direction = SnakeController.turn(direction, 2); break;
+                case LEFT:  direction = SnakeController.turn(direction, 3); break;
             }
         });
     }
 
     private void startGameLoop() {
+        if (frameRecorder != null && recordFast) {
+            Platform.runLater(this::stepOffscreen);
+            return;
+        }
+
         gameLoop = new AnimationTimer() {
             long lastUpdate = 0;
 
@@ -291,6 +382,10 @@ public class SnakeGame extends Application {
             public void handle(long now) {
                 if (now - lastUpdate >= GAME_SPEED) {
                     updateGame();
+                    // One frame per tick, so playback speed only depends on the output frame rate
+                    if (frameRecorder != null && !gameOver) {
+                        frameRecorder.capture(gameArea);
+                    }
                     lastUpdate = now;
                 }
             }
@@ -298,9 +393,64 @@ public class SnakeGame extends Application {
         gameLoop.start();
     }
 
+    // Runs the bot off the FX thread with a time budget, so a slow or broken one cannot freeze
+    // the game. On failure the bot is dropped and the snake keeps its direction under keyboard control.
+    private int askController() {
+        if (controllerThread == null) {
+            controllerThread = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "snake-controller");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+
+        // The bot only ever sees this copy, never the live nodes
+        gameView.update();
+        SnakeController bot = controller;
+        GameSnapshot view = gameView;
+        Future<Integer> decision = controllerThread.submit(() -> bot.nextDirection(view));
+        try {
+            return decision.get(CONTROLLER_BUDGET, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            System.err.println("Controller took too long, switching to keyboard");
+            decision.cancel(true);
+            controllerThread.shutdownNow();
+            controllerThread = null; // The stuck thread is left behind
+            gameView = new GameSnapshot(); // along with the copy it is reading
+        } catch (ExecutionException e) {
+            System.err.println("Controller failed, switching to keyboard: " + e.getCause());
+            e.getCause().printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        controller = null;
+        return direction;
+    }
+
+    // Runs ticks back to back instead of every GAME_SPEED, capturing each one offscreen,
+    // so a bot game turns into footage faster than real time
+    private void stepOffscreen() {
+        while (!gameOver && frameRecorder.hasFreeFrame()) {
+            updateGame();
+            if (!gameOver) {
+                frameRecorder.capture(gameArea);
+            }
+        }
+        if (gameOver) return;
+
+        // Out of frame buffers, give the writer a pulse to catch up rather than dropping frames
+        PauseTransition wait = new PauseTransition(Duration.millis(1));
+        wait.setOnFinished(e -> stepOffscreen());
+        wait.play();
+    }
+
     private void updateGame() {
         if (gameOver) return;
 
+        if (controller != null) {
+            direction = SnakeController.turn(direction, askController());
+        }
+
         // Store current head position
         double oldX = snake.get(0).getTranslateX();
         double oldY = snake.get(0).getTranslateY();
@@ -316,6 +466,16 @@ public class SnakeGame extends Application {
         // Check collisions
         if (checkCollision()) {
             gameOver = true;
+            if (frameRecorder != null) {
+                // Record the crash before the game over screen replaces the board, then end
+                // the stream so a pipe reader gets its end of file
+                frameRecorder.capture(gameArea);
+                frameRecorder.finish();
+                if (recordFast) {
+                    Platform.exit(); // The recorded run is over
+                    return;
+                }
+            }
             showGameOverScreen();
             return;
         }
@@ -394,6 +554,88 @@ public class SnakeGame extends Application {
         return false;
     }
 
+    // Plain copy of the on-screen board for a SnakeController, taken on the FX thread
+    // so the bot thread never reads nodes or the snake list
+    private class GameSnapshot implements BoardView {
+        private final boolean[] blocked = new boolean[WIDTH * HEIGHT];
+        private int foodX;
+        private int foodY;
+        private int headX;
+        private int headY;
+        private int headDirection;
+        private int length;
+        private long seed;
+
+        void update() {
+            Arrays.fill(blocked, false);
+            for (Rectangle segment : snake) {
+                int x = (int) (segment.getTranslateX() / TILE_SIZE);
+                int y = (int) (segment.getTranslateY() / TILE_SIZE);
+                if (x >= 0 && x < WIDTH && y >= 0 && y < HEIGHT) {
+                    blocked[y * WIDTH + x] = true;
+                }
+            }
+            foodX = (int) (food.getTranslateX() / TILE_SIZE);
+            foodY = (int) (food.getTranslateY() / TILE_SIZE);
+            headX = (int) (snake.get(0).getTranslateX() / TILE_SIZE);
+            headY = (int) (snake.get(0).getTranslateY() / TILE_SIZE);
+            headDirection = direction;
+            length = snake.size();
+            seed = gameSeed;
+        }
+
+        @Override
+        public int getWidth() {
+            return WIDTH;
+        }
+
+        @Override
+        public int getHeight() {
+            return HEIGHT;
+        }
+
+        @Override
+        public int getFoodX() {
+            return foodX;
+        }
+
+        @Override
+        public int getFoodY() {
+            return foodY;
+        }
+
+        @Override
+        public int getHeadX() {
+            return headX;
+        }
+
+        @Override
+        public int getHeadY() {
+            return headY;
+        }
+
+        @Override
+        public int getDirection() {
+            return headDirection;
+        }
+
+        @Override
+        public int getLength() {
+            return length;
+        }
+
+        @Override
+        public boolean isBlocked(int x, int y) {
+            if (x < 0 || x >= WIDTH || y < 0 || y >= HEIGHT) return true;
+            return blocked[y * WIDTH + x];
+        }
+
+        @Override
+        public long getSeed() {
+            return seed;
+        }
+    }
+
     private void showGameOverScreen() {
         // Stop game music and play game over music
         if (gameMusic != null) gameMusic.stop();
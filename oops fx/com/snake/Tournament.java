@@ -0,0 +1,380 @@
+package com.snake;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Round robin tournament between every {@link SnakeController} on the classpath.
+ *
+ * Matches run in parallel on a fixed number of threads and call their controllers directly,
+ * so a decision costs no more than the method call. A shared watchdog enforces the time
+ * budget: when a decision runs over, it ends the match as a forfeit, leaves the stuck thread
+ * behind and adds a fresh one to the pool. A controller that throws loses the match and is
+ * counted as a fault. A stuck thread cannot be stopped, so a controller that runs out of
+ * time once forfeits the rest of its matches without being called again.
+ *
+ * Run with {@code java com.snake.Tournament}, tuned with -Dsnake.threads, -Dsnake.budgetMs,
+ * -Dsnake.rounds and -Dsnake.maxTicks.
+ */
+public class Tournament {
+    private static final int WIDTH = 20;
+    private static final int HEIGHT = 15;
+
+    // Match.deadline when no controller is running, and once the watchdog has taken over
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long TIMED_OUT = Long.MAX_VALUE;
+
+    private final List<ServiceLoader.Provider<SnakeController>> entrants;
+    private final int threads;
+    private final long budgetNanos;
+    private final int rounds;
+    private final int maxTicks;
+
+    // Entrants that ran out of time, shared by all matches, 1 when disqualified
+    private final AtomicIntegerArray disqualified;
+
+    private final Set<Match> running = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<MatchResult> finished = new LinkedBlockingQueue<>();
+    private ThreadPoolExecutor pool;
+
+    public Tournament(List<ServiceLoader.Provider<SnakeController>> entrants,
+                      int threads, long budgetMillis, int rounds, int maxTicks) {
+        this.entrants = entrants;
+        this.threads = threads;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.rounds = rounds;
+        this.maxTicks = maxTicks;
+        this.disqualified = new AtomicIntegerArray(entrants.size());
+    }
+
+    /**
+     * Plays every pairing {@code rounds} times, swapping sides each round, and returns the
+     * standings best first.
+     */
+    public List<Standing> run() throws InterruptedException {
+        List<Standing> standings = new ArrayList<>();
+        for (ServiceLoader.Provider<SnakeController> entrant : entrants) {
+            standings.add(new Standing(entrant.type().getSimpleName()));
+        }
+
+        // Daemon threads, an abandoned one may never come back
+        pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("snake-match"));
+        ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(daemonThreads("snake-watchdog"));
+        long period = Math.max(budgetNanos / 4, TimeUnit.MILLISECONDS.toNanos(1));
+        watchdog.scheduleAtFixedRate(this::checkDeadlines, period, period, TimeUnit.NANOSECONDS);
+
+        int matches = 0;
+        try {
+            for (int a = 0; a < entrants.size(); a++) {
+                for (int b = a + 1; b < entrants.size(); b++) {
+                    for (int round = 0; round < rounds; round++) {
+                        int first = round % 2 == 0 ? a : b;
+                        int second = round % 2 == 0 ? b : a;
+                        long seed = ((long) matches << 32) ^ (a * 31L + b);
+                        pool.execute(new Match(first, second, seed));
+                        matches++;
+                    }
+                }
+            }
+
+            for (int i = 0; i < matches; i++) {
+                MatchResult result = finished.take();
+                if (result.error != null) {
+                    // Controller failures are handled inside the match, this is a bug in the board itself
+                    throw new IllegalStateException("Match failed", result.error);
+                }
+                record(standings, result);
+            }
+        } finally {
+            watchdog.shutdownNow();
+            pool.shutdownNow();
+        }
+
+        standings.sort(Comparator.comparingInt(Standing::getPoints).reversed()
+                .thenComparing(Comparator.comparingLong(Standing::getTotalScore).reversed()));
+        return standings;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    // Runs on the watchdog thread
+    private void checkDeadlines() {
+        long now = System.nanoTime();
+        for (Match match : running) {
+            long deadline = match.deadline.get();
+            if (deadline == IDLE || deadline == TIMED_OUT || now - deadline < 0) continue;
+            if (match.deadline.compareAndSet(deadline, TIMED_OUT)) {
+                match.abandon();
+            }
+        }
+    }
+
+    // Keeps the number of threads actually playing at the configured size
+    private void resizePool(int delta) {
+        synchronized (pool) {
+            if (delta > 0) {
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+            } else {
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+
+    private void record(List<Standing> standings, MatchResult result) {
+        for (int i = 0; i < Board.PLAYERS; i++) {
+            Standing standing = standings.get(result.entrants[i]);
+            standing.played++;
+            standing.totalScore += result.scores[i];
+            if (result.faults[i]) standing.faults++;
+            if (result.winner == i) {
+                standing.wins++;
+            } else if (result.winner < 0) {
+                standing.draws++;
+            } else {
+                standing.losses++;
+            }
+        }
+    }
+
+    private class Match implements Runnable {
+        private final int[] seats;
+        private final long seed;
+
+        // Set while a controller runs; whoever moves it off that value owns the board afterwards
+        private final AtomicLong deadline = new AtomicLong(IDLE);
+        private volatile int deciding;
+        private Thread worker;
+        private Board board;
+        private MatchResult result;
+
+        Match(int first, int second, long seed) {
+            this.seats = new int[] {first, second};
+            this.seed = seed;
+        }
+
+        @Override
+        public void run() {
+            worker = Thread.currentThread();
+            board = new Board(WIDTH, HEIGHT, seed);
+            result = new MatchResult(seats);
+            running.add(this);
+            try {
+                play();
+            } catch (RuntimeException e) {
+                result.error = e;
+            } finally {
+                running.remove(this);
+            }
+
+            if (deadline.get() == TIMED_OUT) {
+                // The watchdog already finished this match and replaced this thread
+                resizePool(-1);
+                return;
+            }
+            finish();
+        }
+
+        private void play() {
+            for (int i = 0; i < Board.PLAYERS; i++) {
+                if (isDisqualified(i)) fault(i);
+            }
+
+            SnakeController[] controllers = new SnakeController[Board.PLAYERS];
+            for (int i = 0; i < Board.PLAYERS && board.getAliveCount() == Board.PLAYERS; i++) {
+                start(i);
+                try {
+                    controllers[i] = entrants.get(seats[i]).get();
+                } catch (RuntimeException | Error e) {
+                    if (!end()) return;
+                    fault(i);
+                    break;
+                }
+                if (!end()) return;
+            }
+
+            while (board.getAliveCount() == Board.PLAYERS && board.getTicks() < maxTicks) {
+                for (int i = 0; i < Board.PLAYERS; i++) {
+                    // Also catches controllers that timed out in another match since this one started
+                    if (isDisqualified(i)) {
+                        fault(i);
+                        break;
+                    }
+                    int direction;
+                    start(i);
+                    try {
+                        direction = controllers[i].nextDirection(board.viewFor(i));
+                    } catch (RuntimeException | Error e) {
+                        if (!end()) return;
+                        fault(i);
+                        break;
+                    }
+                    if (!end()) return;
+                    board.turn(i, direction);
+                }
+                if (board.getAliveCount() < Board.PLAYERS) break;
+                board.step();
+            }
+        }
+
+        private void start(int player) {
+            deciding = player;
+            deadline.set(System.nanoTime() + budgetNanos);
+        }
+
+        // False when the watchdog took the match over while the controller was running
+        private boolean end() {
+            long current = deadline.get();
+            return current != TIMED_OUT && deadline.compareAndSet(current, IDLE);
+        }
+
+        private boolean isDisqualified(int player) {
+            return disqualified.get(seats[player]) != 0;
+        }
+
+        private void fault(int player) {
+            result.faults[player] = true;
+            board.forfeit(player);
+        }
+
+        // Called by the watchdog once it owns the match, the worker is still inside the controller
+        void abandon() {
+            int player = deciding;
+            disqualified.set(seats[player], 1);
+            fault(player);
+            worker.interrupt();
+            resizePool(1);
+            finish();
+        }
+
+        private void finish() {
+            for (int i = 0; i < Board.PLAYERS; i++) {
+                result.scores[i] = board.getScore(i);
+            }
+            result.winner = pickWinner(board);
+            finished.add(result);
+        }
+    }
+
+    private static int pickWinner(Board board) {
+        if (board.isAlive(0) != board.isAlive(1)) {
+            return board.isAlive(0) ? 0 : 1;
+        }
+        // Both alive at the tick limit or both dead on the same tick, longest snake wins
+        if (board.getLength(0) != board.getLength(1)) {
+            return board.getLength(0) > board.getLength(1) ? 0 : 1;
+        }
+        return -1;
+    }
+
+    private static class MatchResult {
+        final int[] entrants;
+        final int[] scores = new int[Board.PLAYERS];
+        final boolean[] faults = new boolean[Board.PLAYERS];
+        int winner = -1;
+        Throwable error;
+
+        MatchResult(int[] entrants) {
+            this.entrants = entrants;
+        }
+    }
+
+    /**
+     * One controller's totals over the whole tournament. Wins are worth 3 points, draws 1.
+     */
+    public static class Standing {
+        private final String name;
+        private int played;
+        private int wins;
+        private int draws;
+        private int losses;
+        private int faults;
+        private long totalScore;
+
+        Standing(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getPlayed() {
+            return played;
+        }
+
+        public int getWins() {
+            return wins;
+        }
+
+        public int getDraws() {
+            return draws;
+        }
+
+        public int getLosses() {
+            return losses;
+        }
+
+        public int getFaults() {
+            return faults;
+        }
+
+        public long getTotalScore() {
+            return totalScore;
+        }
+
+        public int getPoints() {
+            return wins * 3 + draws;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        List<ServiceLoader.Provider<SnakeController>> entrants =
+                SnakeController.loader().stream().collect(Collectors.toList());
+        if (entrants.size() < 2) {
+            System.err.println("Need at least two controllers on the classpath, found " + entrants.size());
+            return;
+        }
+
+        int threads = Integer.getInteger("snake.threads", Runtime.getRuntime().availableProcessors());
+        long budgetMillis = Long.getLong("snake.budgetMs", 50);
+        int rounds = Integer.getInteger("snake.rounds", 10);
+        int maxTicks = Integer.getInteger("snake.maxTicks", 2000);
+
+        long start = System.nanoTime();
+        List<Standing> standings = new Tournament(entrants, threads, budgetMillis, rounds, maxTicks).run();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        System.out.printf("%-4s %-24s %6s %4s %4s %4s %6s %8s %6s%n",
+                "#", "Controller", "Played", "W", "D", "L", "Faults", "Score", "Points");
+        for (int i = 0; i < standings.size(); i++) {
+            Standing s = standings.get(i);
+            System.out.printf("%-4d %-24s %6d %4d %4d %4d %6d %8d %6d%n",
+                    i + 1, s.getName(), s.getPlayed(), s.getWins(), s.getDraws(), s.getLosses(),
+                    s.getFaults(), s.getTotalScore(), s.getPoints());
+        }
+        System.out.println("Finished in " + elapsed + " ms on " + threads + " threads");
+    }
+}